@@ -0,0 +1,111 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.center_graph_element.CenterGraphElementOperator;
+import guru.bubl.module.model.center_graph_element.CenterGraphElementOperatorFactory;
+import guru.bubl.module.model.center_graph_element.CenterGraphElementPojo;
+import guru.bubl.module.model.center_graph_element.CenterGraphElementsOperatorFactory;
+import guru.bubl.module.model.friend.FriendManagerFactory;
+import guru.bubl.module.model.graph.ShareLevel;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Center listings paged LIMIT at a time. Larger graphs are opt-in,
+ * for example -p nbCenters=100000 -p page=0,100,3000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CenterGraphElementsBenchmark extends ModelBenchmark {
+
+    private static final Integer LIMIT = 28;
+
+    @Param({"10000"})
+    public Integer nbCenters;
+
+    @Param({"0", "100", "300"})
+    public Integer page;
+
+    private CenterGraphElementsOperatorFactory centerGraphElementsOperatorFactory;
+
+    private User user;
+
+    private User friend;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        centerGraphElementsOperatorFactory = getInstance(
+                CenterGraphElementsOperatorFactory.class
+        );
+        CenterGraphElementOperatorFactory centerGraphElementOperatorFactory = getInstance(
+                CenterGraphElementOperatorFactory.class
+        );
+        VertexFactory vertexFactory = getInstance(VertexFactory.class);
+        user = createUser("roger_lamothe");
+        friend = createUser("colette_armande");
+        FriendManagerFactory friendManagerFactory = getInstance(FriendManagerFactory.class);
+        friendManagerFactory.forUser(user).add(friend);
+        friendManagerFactory.forUser(friend).confirm(user);
+        for (int i = 0; i < nbCenters; i++) {
+            VertexOperator vertex = vertexFactory.createForOwner(
+                    user.username()
+            );
+            vertex.label("center " + i);
+            if (i % 10 == 0) {
+                vertex.setShareLevel(ShareLevel.FRIENDS);
+            } else {
+                vertex.makePublic();
+            }
+            CenterGraphElementOperator center = centerGraphElementOperatorFactory.usingFriendlyResource(
+                    vertex
+            );
+            center.updateLastCenterDate();
+            center.incrementNumberOfVisits();
+        }
+    }
+
+    @Benchmark
+    public List<CenterGraphElementPojo> getPublicAndPrivateForOwner() {
+        return centerGraphElementsOperatorFactory.usingLimitAndSkip(
+                LIMIT,
+                page * LIMIT
+        ).getPublicAndPrivateForOwner(user);
+    }
+
+    @Benchmark
+    public List<CenterGraphElementPojo> getAllPublic() {
+        return centerGraphElementsOperatorFactory.usingLimitAndSkip(
+                LIMIT,
+                page * LIMIT
+        ).getAllPublic();
+    }
+
+    @Benchmark
+    public List<CenterGraphElementPojo> getPublicOfUser() {
+        return centerGraphElementsOperatorFactory.usingLimitAndSkip(
+                LIMIT,
+                page * LIMIT
+        ).getPublicOfUser(user);
+    }
+
+    @Benchmark
+    public List<CenterGraphElementPojo> getFriendsFeedForUser() {
+        return centerGraphElementsOperatorFactory.usingLimitAndSkip(
+                LIMIT,
+                page * LIMIT
+        ).getFriendsFeedForUser(friend);
+    }
+}
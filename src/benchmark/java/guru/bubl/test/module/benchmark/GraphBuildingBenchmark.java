@@ -0,0 +1,58 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Baseline for importing a mind map through per element operator calls,
+ * one session each, the way AbstractScenario and TestScenarios do it.
+ * Larger imports are opt-in, for example -p nbBubbles=50000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class GraphBuildingBenchmark extends ModelBenchmark {
+
+    @Param({"1000", "10000"})
+    public Integer nbBubbles;
+
+    @Param({"3", "10"})
+    public Integer fanOut;
+
+    private VertexFactory vertexFactory;
+
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        vertexFactory = getInstance(VertexFactory.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void removeGraph() {
+        removeGraphAndUsers();
+        user = createUser("roger_lamothe");
+    }
+
+    @Benchmark
+    public Integer buildWithOperators() {
+        return SyntheticGraph.withFactoryOwnerAndSize(
+                vertexFactory,
+                user,
+                nbBubbles * 2 - 1,
+                fanOut,
+                Integer.MAX_VALUE
+        ).build().nbElements();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.search.GraphElementSearchResult;
+import guru.bubl.module.model.search.GraphSearchFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Only the owner search path is measured. GraphSearch has no friend or public search entry point,
+ * searchForAllOwnResources is the one search every client goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class GraphSearchBenchmark extends ModelBenchmark {
+
+    private static final Integer LIMIT = 10;
+
+    @Param({"5000"})
+    public Integer nbBubbles;
+
+    @Param({"0", "10", "100"})
+    public Integer page;
+
+    private GraphSearchFactory graphSearchFactory;
+
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        graphSearchFactory = getInstance(GraphSearchFactory.class);
+        VertexFactory vertexFactory = getInstance(VertexFactory.class);
+        user = createUser("roger_lamothe");
+        for (int i = 0; i < nbBubbles; i++) {
+            vertexFactory.createForOwner(
+                    user.username()
+            ).label("bubble " + i);
+        }
+    }
+
+    @Benchmark
+    public List<GraphElementSearchResult> searchForAllOwnResources() {
+        return graphSearchFactory.usingSearchTermSkipAndLimit(
+                "bubble",
+                page * LIMIT,
+                LIMIT
+        ).searchForAllOwnResources(user);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.test.GraphComponentTest;
+import guru.bubl.module.repository.user.UserRepository;
+import guru.bubl.test.module.utils.ModelTestRunner;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+ * Embedded model shared by the benchmarks. Subclasses call startWithEmptyGraph() first in their
+ * trial setup; the model is stopped after the trial.
+ */
+@State(Scope.Benchmark)
+public abstract class ModelBenchmark {
+
+    protected void startWithEmptyGraph() {
+        ModelTestRunner.realBeforeClass();
+        removeGraphAndUsers();
+    }
+
+    /*
+     * Users are resources too, create them again after calling this.
+     */
+    protected void removeGraphAndUsers() {
+        getInstance(GraphComponentTest.class).removeWholeGraph();
+        try (Session session = getInstance(Driver.class).session()) {
+            session.run(
+                    "MATCH (n:Resource) DETACH DELETE n"
+            );
+            session.run(
+                    "MATCH (n:Notification) DETACH DELETE n"
+            );
+        }
+    }
+
+    protected User createUser(String username) {
+        return getInstance(UserRepository.class).createUser(
+                User.withEmail(
+                        username + "@example.org"
+                ).setUsername(username).setPreferredLocales("[en]").password("12345678")
+        );
+    }
+
+    protected <T> T getInstance(Class<T> type) {
+        return ModelTestRunner.injector.getInstance(type);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopModel() {
+        ModelTestRunner.realAfterClass();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.Tree;
+import guru.bubl.module.model.graph.tree_copier.TreeCopierFactory;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.joda.time.DateTime;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static guru.bubl.module.model.test.scenarios.TestScenarios.tagFromFriendlyResource;
+import static org.neo4j.driver.Values.parameters;
+
+/*
+ * Latency of a label change on a watched root, notifications to every watcher included.
+ * Modification dates are pushed back before each call so the one day throttle never skips the fan-out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NotificationBenchmark extends ModelBenchmark {
+
+    @Param({"0", "10", "100"})
+    public Integer nbWatchers;
+
+    private Driver driver;
+
+    private VertexOperator watchedRoot;
+
+    private Integer nbLabelChanges = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        driver = getInstance(Driver.class);
+        User owner = createUser("roger_lamothe");
+        SyntheticGraph syntheticGraph = SyntheticGraph.withFactoryOwnerAndSize(
+                getInstance(VertexFactory.class),
+                owner,
+                19,
+                3,
+                Integer.MAX_VALUE
+        ).build();
+        for (VertexOperator vertex : syntheticGraph.getVertices()) {
+            vertex.makePublic();
+        }
+        watchedRoot = syntheticGraph.getCenter();
+        Tree tree = Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                syntheticGraph.getUris(),
+                watchedRoot.uri(),
+                tagFromFriendlyResource(watchedRoot)
+        );
+        TreeCopierFactory treeCopierFactory = getInstance(TreeCopierFactory.class);
+        for (int i = 0; i < nbWatchers; i++) {
+            User watcher = createUser("watcher" + i);
+            treeCopierFactory.forCopier(watcher).copyTreeOfUser(tree, owner);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setLastModificationDateToMoreThanADayBefore() {
+        try (Session session = driver.session()) {
+            session.run(
+                    "MATCH (n:Resource) set n.last_modification_date=$lastModificationDate",
+                    parameters(
+                            "lastModificationDate", new DateTime().minusDays(2).toDate().getTime()
+                    )
+            );
+        }
+    }
+
+    @Benchmark
+    public Integer changeLabelOfWatchedRoot() {
+        nbLabelChanges++;
+        watchedRoot.label("center " + nbLabelChanges);
+        return nbLabelChanges;
+    }
+}
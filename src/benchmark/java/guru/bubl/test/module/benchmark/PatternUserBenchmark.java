@@ -0,0 +1,61 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.pattern.PatternUserFactory;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Baseline for users cloning the same pattern again and again, each clone a full copy of the pattern.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PatternUserBenchmark extends ModelBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public Integer patternSize;
+
+    private PatternUserFactory patternUserFactory;
+
+    private User patternOwner;
+
+    private User cloner;
+
+    private URI patternUri;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        patternUserFactory = getInstance(PatternUserFactory.class);
+        patternOwner = createUser("roger_lamothe");
+        cloner = createUser("colette_armande");
+        SyntheticGraph pattern = SyntheticGraph.withFactoryOwnerAndSize(
+                getInstance(VertexFactory.class),
+                patternOwner,
+                patternSize * 2 - 1,
+                3,
+                Integer.MAX_VALUE
+        ).build();
+        pattern.getCenter().makePattern();
+        patternUri = pattern.getCenter().uri();
+    }
+
+    @Benchmark
+    public URI clonePattern() {
+        return patternUserFactory.forUserAndPatternUri(
+                cloner,
+                patternUri
+        ).use();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.admin.WholeGraphAdmin;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Reindexing every owner's graph. Larger graphs are opt-in, for example -p nbElementsPerUser=100000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ReindexBenchmark extends ModelBenchmark {
+
+    @Param({"10000"})
+    public Integer nbElementsPerUser;
+
+    @Param({"1", "10"})
+    public Integer nbUsers;
+
+    private WholeGraphAdmin wholeGraphAdmin;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        wholeGraphAdmin = getInstance(WholeGraphAdmin.class);
+        VertexFactory vertexFactory = getInstance(VertexFactory.class);
+        for (int i = 0; i < nbUsers; i++) {
+            User user = createUser("user" + i);
+            SyntheticGraph.withFactoryOwnerAndSize(
+                    vertexFactory,
+                    user,
+                    nbElementsPerUser,
+                    5,
+                    Integer.MAX_VALUE
+            ).build();
+        }
+    }
+
+    @Benchmark
+    public void reindexAll() {
+        wholeGraphAdmin.reindexAll();
+    }
+}
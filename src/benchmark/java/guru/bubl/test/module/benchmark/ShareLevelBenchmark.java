@@ -0,0 +1,64 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Baseline for making a whole mind map public one vertex at a time,
+ * each call updating surrounding edges, tags and neighbor counters.
+ * Those counters are checked by the share level cases of WholeGraphAdminTest,
+ * NbNeighborsConcurrencyTest stays ignored until nb-neighbor increments are atomic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ShareLevelBenchmark extends ModelBenchmark {
+
+    @Param({"1000", "5000"})
+    public Integer nbBubbles;
+
+    private VertexFactory vertexFactory;
+
+    private User user;
+
+    private List<VertexOperator> vertices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        vertexFactory = getInstance(VertexFactory.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void buildTree() {
+        removeGraphAndUsers();
+        user = createUser("roger_lamothe");
+        vertices = SyntheticGraph.withFactoryOwnerAndSize(
+                vertexFactory,
+                user,
+                nbBubbles * 2 - 1,
+                3,
+                Integer.MAX_VALUE
+        ).build().getVertices();
+    }
+
+    @Benchmark
+    public Integer makeTreePublicOneVertexAtATime() {
+        for (VertexOperator vertex : vertices) {
+            vertex.makePublic();
+        }
+        return vertices.size();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.graph_element.ForkCollectionOperatorFactory;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * Baseline for deleting everything under a center in one ForkCollectionOperator.remove() call.
+ * The tree is rebuilt every iteration, larger trees are opt-in, for example -p nbBubbles=20000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SubtreeRemovalBenchmark extends ModelBenchmark {
+
+    @Param({"1000", "5000"})
+    public Integer nbBubbles;
+
+    private VertexFactory vertexFactory;
+
+    private ForkCollectionOperatorFactory forkCollectionOperatorFactory;
+
+    private User user;
+
+    private Set<URI> subtreeUris;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        vertexFactory = getInstance(VertexFactory.class);
+        forkCollectionOperatorFactory = getInstance(ForkCollectionOperatorFactory.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void buildTree() {
+        removeGraphAndUsers();
+        user = createUser("roger_lamothe");
+        SyntheticGraph syntheticGraph = SyntheticGraph.withFactoryOwnerAndSize(
+                vertexFactory,
+                user,
+                nbBubbles * 2 - 1,
+                3,
+                Integer.MAX_VALUE
+        ).build();
+        subtreeUris = syntheticGraph.getVertices().stream().filter(
+                vertex -> !vertex.equals(syntheticGraph.getCenter())
+        ).map(VertexOperator::uri).collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Integer removeSubtreeUnderCenter() {
+        forkCollectionOperatorFactory.withUris(subtreeUris).remove();
+        return subtreeUris.size();
+    }
+}
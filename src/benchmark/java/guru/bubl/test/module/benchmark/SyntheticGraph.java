@@ -0,0 +1,134 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.ShareLevel;
+import guru.bubl.module.model.graph.relation.Relation;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Breadth first tree of bubbles around a center, built through the operators
+ * the same way a user would. Bubbles are, in turn, private, friend and public
+ * so that every share level combination has something to extract.
+ */
+public class SyntheticGraph {
+
+    private final VertexFactory vertexFactory;
+    private final User owner;
+    private final Integer nbElements;
+    private final Integer fanOut;
+    private final Integer maxDepth;
+
+    private VertexOperator center;
+    private final List<VertexOperator> vertices = new ArrayList<>();
+    private final Set<URI> uris = new HashSet<>();
+    private Integer nbVertices = 0;
+    private Integer nbRelations = 0;
+
+    public static SyntheticGraph withFactoryOwnerAndSize(
+            VertexFactory vertexFactory,
+            User owner,
+            Integer nbElements,
+            Integer fanOut,
+            Integer maxDepth
+    ) {
+        return new SyntheticGraph(
+                vertexFactory,
+                owner,
+                nbElements,
+                fanOut,
+                maxDepth
+        );
+    }
+
+    protected SyntheticGraph(
+            VertexFactory vertexFactory,
+            User owner,
+            Integer nbElements,
+            Integer fanOut,
+            Integer maxDepth
+    ) {
+        this.vertexFactory = vertexFactory;
+        this.owner = owner;
+        this.nbElements = nbElements;
+        this.fanOut = fanOut;
+        this.maxDepth = maxDepth;
+    }
+
+    public SyntheticGraph build() {
+        center = vertexFactory.createForOwner(
+                owner.username()
+        );
+        center.label("center");
+        center.makePublic();
+        vertices.add(center);
+        uris.add(center.uri());
+        nbVertices = 1;
+        Deque<VertexOperator> parents = new ArrayDeque<>();
+        Deque<Integer> parentsDepth = new ArrayDeque<>();
+        parents.add(center);
+        parentsDepth.add(0);
+        while (!parents.isEmpty() && nbElements() < nbElements) {
+            VertexOperator parent = parents.poll();
+            Integer depth = parentsDepth.poll();
+            if (depth >= maxDepth) {
+                continue;
+            }
+            for (int i = 0; i < fanOut && nbElements() < nbElements; i++) {
+                Relation relation = parent.addVertexAndRelation();
+                nbRelations++;
+                VertexOperator child = vertexFactory.withUri(
+                        relation.destinationUri()
+                );
+                child.label("b" + nbVertices);
+                setShareLevelOfNewVertex(child);
+                vertices.add(child);
+                uris.add(child.uri());
+                uris.add(relation.uri());
+                nbVertices++;
+                parents.add(child);
+                parentsDepth.add(depth + 1);
+            }
+        }
+        return this;
+    }
+
+    public VertexOperator getCenter() {
+        return center;
+    }
+
+    public List<VertexOperator> getVertices() {
+        return vertices;
+    }
+
+    public Set<URI> getUris() {
+        return uris;
+    }
+
+    public Integer nbElements() {
+        return nbVertices + nbRelations;
+    }
+
+    private void setShareLevelOfNewVertex(VertexOperator vertex) {
+        switch (nbVertices % 3) {
+            case 0:
+                vertex.makePublic();
+                break;
+            case 1:
+                vertex.setShareLevel(ShareLevel.FRIENDS);
+                break;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.FriendlyResourcePojo;
+import guru.bubl.module.model.graph.tag.TagPojo;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Baseline for tagging a page of graph elements with a new tag, one addTag call per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TaggingBenchmark extends ModelBenchmark {
+
+    @Param({"50", "500"})
+    public Integer nbElements;
+
+    private List<VertexOperator> vertices;
+
+    private TagPojo tag;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        User user = createUser("roger_lamothe");
+        vertices = SyntheticGraph.withFactoryOwnerAndSize(
+                getInstance(VertexFactory.class),
+                user,
+                nbElements * 2 - 1,
+                10,
+                Integer.MAX_VALUE
+        ).build().getVertices();
+    }
+
+    @Setup(Level.Iteration)
+    public void newTag() {
+        tag = new TagPojo(
+                URI.create("https://www.wikidata.org/wiki/" + UUID.randomUUID()),
+                new FriendlyResourcePojo(
+                        "tag"
+                )
+        );
+    }
+
+    @Benchmark
+    public Integer tagOneElementAtATime() {
+        for (VertexOperator vertex : vertices) {
+            vertex.addTag(tag);
+        }
+        return vertices.size();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.Tree;
+import guru.bubl.module.model.graph.relation.Relation;
+import guru.bubl.module.model.graph.tree_copier.TreeCopier;
+import guru.bubl.module.model.graph.tree_copier.TreeCopierFactory;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static guru.bubl.module.model.test.scenarios.TestScenarios.tagFromFriendlyResource;
+
+/*
+ * Baseline for another user copying a whole public tree, cloned element by element,
+ * and for rejecting the same tree when a single leaf is private.
+ * Each iteration copies into a new user so that it starts with an empty graph and no tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TreeCopierBenchmark extends ModelBenchmark {
+
+    @Param({"1000", "10000"})
+    public Integer nbBubbles;
+
+    private User owner;
+
+    private TreeCopier treeCopier;
+
+    private Integer nbCopiers = 0;
+
+    private Tree tree;
+
+    private Tree treeWithPrivateLeaf;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        owner = createUser("roger_lamothe");
+        SyntheticGraph syntheticGraph = SyntheticGraph.withFactoryOwnerAndSize(
+                getInstance(VertexFactory.class),
+                owner,
+                nbBubbles * 2 - 1,
+                3,
+                Integer.MAX_VALUE
+        ).build();
+        for (VertexOperator vertex : syntheticGraph.getVertices()) {
+            vertex.makePublic();
+        }
+        tree = Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                syntheticGraph.getUris(),
+                syntheticGraph.getCenter().uri(),
+                tagFromFriendlyResource(syntheticGraph.getCenter())
+        );
+        Relation privateLeafRelation = syntheticGraph.getCenter().addVertexAndRelation();
+        Set<URI> urisWithPrivateLeaf = new HashSet<>(syntheticGraph.getUris());
+        urisWithPrivateLeaf.add(privateLeafRelation.uri());
+        urisWithPrivateLeaf.add(privateLeafRelation.destinationUri());
+        treeWithPrivateLeaf = Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                urisWithPrivateLeaf,
+                syntheticGraph.getCenter().uri(),
+                tagFromFriendlyResource(syntheticGraph.getCenter())
+        );
+    }
+
+    @Setup(Level.Iteration)
+    public void createCopier() {
+        nbCopiers++;
+        treeCopier = getInstance(TreeCopierFactory.class).forCopier(
+                createUser("copier" + nbCopiers)
+        );
+    }
+
+    @Benchmark
+    public Map<URI, URI> copyPublicTree() {
+        return treeCopier.copyTreeOfUser(tree, owner);
+    }
+
+    @Benchmark
+    public Map<URI, URI> rejectTreeWithPrivateLeaf() {
+        return treeCopier.copyTreeOfUser(treeWithPrivateLeaf, owner);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.benchmark;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.ShareLevel;
+import guru.bubl.module.model.graph.subgraph.SubGraphJson;
+import guru.bubl.module.model.graph.subgraph.SubGraphPojo;
+import guru.bubl.module.model.graph.subgraph.UserGraph;
+import guru.bubl.module.model.graph.vertex.VertexFactory;
+import guru.bubl.module.neo4j_graph_manipulator.graph.graph.UserGraphFactoryNeo4j;
+import org.codehaus.jettison.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Subgraph extraction around a public center as seen by its owner, a friend or anyone.
+ * Larger graphs are opt-in, for example -p nbElements=100000,1000000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UserGraphBenchmark extends ModelBenchmark {
+
+    @Param({"10000"})
+    public Integer nbElements;
+
+    @Param({"3", "10"})
+    public Integer fanOut;
+
+    @Param({"20"})
+    public Integer graphDepth;
+
+    @Param({"owner", "friend", "public"})
+    public String viewer;
+
+    private UserGraph userGraph;
+
+    private URI centerUri;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startWithEmptyGraph();
+        User user = createUser("roger_lamothe");
+        userGraph = getInstance(UserGraphFactoryNeo4j.class).withUser(user);
+        centerUri = SyntheticGraph.withFactoryOwnerAndSize(
+                getInstance(VertexFactory.class),
+                user,
+                nbElements,
+                fanOut,
+                graphDepth
+        ).build().getCenter().uri();
+    }
+
+    @Benchmark
+    public SubGraphPojo aroundForkUriInShareLevels() {
+        switch (viewer) {
+            case "friend":
+                return userGraph.aroundForkUriInShareLevels(
+                        centerUri,
+                        ShareLevel.FRIENDS.getIndex(),
+                        ShareLevel.PUBLIC.getIndex(),
+                        ShareLevel.PUBLIC_WITH_LINK.getIndex()
+                );
+            case "public":
+                return userGraph.aroundForkUriInShareLevels(
+                        centerUri,
+                        ShareLevel.PUBLIC.getIndex(),
+                        ShareLevel.PUBLIC_WITH_LINK.getIndex()
+                );
+            default:
+                return userGraph.aroundForkUriInShareLevels(
+                        centerUri,
+                        ShareLevel.allShareLevelsInt
+                );
+        }
+    }
+
+    @Benchmark
+    public SubGraphPojo aroundForkUriWithDepthInShareLevels(Depth depth) {
+        switch (viewer) {
+            case "friend":
+                return userGraph.aroundForkUriWithDepthInShareLevels(
+                        centerUri,
+                        depth.value,
+                        ShareLevel.FRIENDS.getIndex(),
+                        ShareLevel.PUBLIC.getIndex(),
+                        ShareLevel.PUBLIC_WITH_LINK.getIndex()
+                );
+            case "public":
+                return userGraph.aroundForkUriWithDepthInShareLevels(
+                        centerUri,
+                        depth.value,
+                        ShareLevel.PUBLIC.getIndex(),
+                        ShareLevel.PUBLIC_WITH_LINK.getIndex()
+                );
+            default:
+                return userGraph.aroundForkUriWithDepthInShareLevels(
+                        centerUri,
+                        depth.value,
+                        ShareLevel.allShareLevelsInt
+                );
+        }
+    }
+
+    @Benchmark
+    public JSONObject aroundForkUriWithDepthInShareLevelsToJson(Depth depth) {
+        return SubGraphJson.toJson(
+                aroundForkUriWithDepthInShareLevels(depth)
+        );
+    }
+
+    @State(Scope.Benchmark)
+    public static class Depth {
+        @Param({"1", "2", "5"})
+        public Integer value;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.model;
+
+import guru.bubl.test.module.utils.ModelTestResources;
+import guru.bubl.test.module.utils.ModelTestSnapshot;
+import org.junit.Test;
+import org.neo4j.driver.Session;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class ModelTestSnapshotTest extends ModelTestResources {
+
+    @Test
+    public void restoring_gives_back_the_same_whole_graph() {
+        ModelTestSnapshot snapshot = ModelTestSnapshot.ofResourcesUsingDriver(driver);
+        Map<String, Map<String, Object>> nodes = nodesByUri();
+        Set<List<Object>> relationships = relationshipsWithUris();
+        vertexA.label("changed");
+        vertexB.remove();
+        removeAll();
+        snapshot.restore();
+        assertThat(
+                nodesByUri(),
+                is(nodes)
+        );
+        assertThat(
+                relationshipsWithUris(),
+                is(relationships)
+        );
+        assertThat(
+                vertexB.getNbNeighbors().getTotal(),
+                is(2)
+        );
+    }
+
+    private Map<String, Map<String, Object>> nodesByUri() {
+        try (Session session = driver.session()) {
+            return session.run(
+                    "MATCH (n:Resource) RETURN n.uri AS uri, labels(n) AS labels, properties(n) AS properties"
+            ).list().stream().collect(Collectors.toMap(
+                    record -> record.get("uri").asString(),
+                    record -> {
+                        Map<String, Object> node = new HashMap<>(record.get("properties").asMap());
+                        node.put("labels", new TreeSet<>(record.get("labels").asList()));
+                        return node;
+                    }
+            ));
+        }
+    }
+
+    private Set<List<Object>> relationshipsWithUris() {
+        try (Session session = driver.session()) {
+            return session.run(
+                    "MATCH (a:Resource)-[r]->(b:Resource) RETURN type(r) AS type, a.uri AS start, b.uri AS end, properties(r) AS properties"
+            ).list().stream().map(record -> Arrays.<Object>asList(
+                    record.get("type").asString(),
+                    record.get("start").asString(),
+                    record.get("end").asString(),
+                    record.get("properties").asMap()
+            )).collect(Collectors.toSet());
+        }
+    }
+}
@@ -11,12 +11,16 @@ import guru.bubl.module.model.graph.relation.Relation;
 import guru.bubl.module.model.graph.tag.TagPojo;
 import guru.bubl.test.module.utils.ModelTestResources;
 import org.hamcrest.core.Is;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -44,6 +48,58 @@ public class CenterGraphElementOperatorTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void number_of_visits_is_up_to_date_right_after_increments() {
+        CenterGraphElementOperator centerGraphElementOperator = centerGraphElementOperatorFactory.usingFriendlyResource(
+                vertexA
+        );
+        centerGraphElementOperator.incrementNumberOfVisits();
+        centerGraphElementOperator.incrementNumberOfVisits();
+        centerGraphElementOperator.incrementNumberOfVisits();
+        assertThat(
+                centerGraphElementOperatorFactory.usingFriendlyResource(
+                        vertexA
+                ).getNumberOfVisits(),
+                is(3)
+        );
+    }
+
+    @Test
+    public void last_center_date_is_up_to_date_right_after_update() {
+        Date beforeUpdate = new Date();
+        centerGraphElementOperatorFactory.usingFriendlyResource(
+                vertexA
+        ).updateLastCenterDate();
+        Date lastCenterDate = centerGraphElementOperatorFactory.usingFriendlyResource(
+                vertexA
+        ).getLastCenterDate();
+        assertFalse(
+                lastCenterDate.before(beforeUpdate)
+        );
+    }
+
+    @Test
+    @Ignore("needs an atomic visit increment")
+    public void concurrent_visits_are_all_counted() throws Exception {
+        List<Runnable> visits = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            visits.add(() -> {
+                CenterGraphElementOperator centerGraphElementOperator = centerGraphElementOperatorFactory.usingFriendlyResource(
+                        vertexA
+                );
+                centerGraphElementOperator.incrementNumberOfVisits();
+                centerGraphElementOperator.updateLastCenterDate();
+            });
+        }
+        runConcurrently(8, visits);
+        assertThat(
+                centerGraphElementOperatorFactory.usingFriendlyResource(
+                        vertexA
+                ).getNumberOfVisits(),
+                is(200)
+        );
+    }
+
     @Test
     public void can_get_center_elements_of_type_meta() {
         TagPojo meta = vertexA.addTag(
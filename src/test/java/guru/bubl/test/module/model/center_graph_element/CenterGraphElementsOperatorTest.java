@@ -23,7 +23,10 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import javax.inject.Inject;
+import java.net.URI;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
@@ -279,6 +282,36 @@ public class CenterGraphElementsOperatorTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void paginating_returns_every_center_once() {
+        for (VertexOperator vertex : new VertexOperator[]{vertexA, vertexB, vertexC, vertexD, vertexE}) {
+            CenterGraphElementOperator center = centerGraphElementOperatorFactory.usingFriendlyResource(
+                    vertex
+            );
+            center.updateLastCenterDate();
+            center.incrementNumberOfVisits();
+        }
+        Set<URI> centerUris = new HashSet<>();
+        int nbCenters = 0;
+        for (int skip = 0; skip < 6; skip += 2) {
+            List<CenterGraphElementPojo> centers = centerGraphElementsOperatorFactory.usingLimitAndSkip(
+                    2, skip
+            ).getPublicAndPrivateForOwner(user);
+            for (CenterGraphElementPojo center : centers) {
+                centerUris.add(center.getGraphElement().uri());
+                nbCenters++;
+            }
+        }
+        assertThat(
+                nbCenters,
+                is(5)
+        );
+        assertThat(
+                centerUris.size(),
+                is(5)
+        );
+    }
+
     @Test
 
 
@@ -147,6 +147,43 @@ public class WholeGraphAdminTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void reindex_all_sets_context_of_every_owner() {
+        vertexFactory.withUri(
+                vertexOfAnotherUser.addVertexAndRelation().destinationUri()
+        ).label("child of another user");
+        wholeGraphAdmin.reindexAll();
+        assertThat(
+                vertexOfAnotherUser.getPrivateContext(),
+                is("child of another user")
+        );
+        assertThat(
+                vertexB.getPrivateContext(),
+                is("vertex C{{vertex A")
+        );
+    }
+
+    @Test
+    public void reindex_all_can_be_run_again_without_changing_context() {
+        wholeGraphAdmin.reindexAll();
+        String vertexBContext = vertexB.getPrivateContext();
+        String groupRelationContext = groupRelation.getPrivateContext();
+        String edgeABContext = vertexA.getEdgeToDestinationVertex(vertexB).getPrivateContext();
+        wholeGraphAdmin.reindexAll();
+        assertThat(
+                vertexB.getPrivateContext(),
+                is(vertexBContext)
+        );
+        assertThat(
+                groupRelation.getPrivateContext(),
+                is(groupRelationContext)
+        );
+        assertThat(
+                vertexA.getEdgeToDestinationVertex(vertexB).getPrivateContext(),
+                is(edgeABContext)
+        );
+    }
+
     @Test
     public void index_vertex_sets_its_private_surround_graph() {
         assertThat(
@@ -439,4 +476,65 @@ public class WholeGraphAdminTest extends ModelTestResources {
                 is(1)
         );
     }
+
+    @Test
+    public void refresh_keeps_nb_neighbors_maintained_when_changing_share_level() {
+        vertexB.makePublic();
+        vertexC.setShareLevel(ShareLevel.FRIENDS);
+        groupRelation.makePublic();
+        vertexD.setShareLevel(ShareLevel.PUBLIC_WITH_LINK);
+        assertRefreshKeepsNbNeighbors(
+                vertexA.getNbNeighbors(),
+                vertexB.getNbNeighbors(),
+                vertexC.getNbNeighbors(),
+                vertexD.getNbNeighbors(),
+                vertexE.getNbNeighbors(),
+                groupRelation.getNbNeighbors()
+        );
+    }
+
+    @Test
+    public void refresh_keeps_nb_neighbors_maintained_when_changing_relation_ends() {
+        vertexB.getEdgeToDestinationVertex(vertexC).changeSource(
+                vertexA.uri(),
+                ShareLevel.PRIVATE,
+                ShareLevel.PRIVATE,
+                ShareLevel.PRIVATE
+        );
+        vertexA.getEdgeToDestinationVertex(vertexB).changeDestination(
+                vertexE.uri(),
+                ShareLevel.PRIVATE,
+                ShareLevel.PRIVATE,
+                ShareLevel.PRIVATE
+        );
+        assertRefreshKeepsNbNeighbors(
+                vertexA.getNbNeighbors(),
+                vertexB.getNbNeighbors(),
+                vertexC.getNbNeighbors(),
+                vertexE.getNbNeighbors(),
+                groupRelation.getNbNeighbors()
+        );
+    }
+
+    @Test
+    public void refresh_keeps_nb_neighbors_maintained_when_merging() {
+        vertexA.mergeTo(vertexC);
+        assertRefreshKeepsNbNeighbors(
+                vertexB.getNbNeighbors(),
+                vertexC.getNbNeighbors(),
+                groupRelation.getNbNeighbors()
+        );
+    }
+
+    @Test
+    public void refresh_keeps_nb_neighbors_maintained_when_removing() {
+        vertexB.makePublic();
+        vertexC.makePublic();
+        vertexB.remove();
+        assertRefreshKeepsNbNeighbors(
+                vertexA.getNbNeighbors(),
+                vertexC.getNbNeighbors(),
+                groupRelation.getNbNeighbors()
+        );
+    }
 }
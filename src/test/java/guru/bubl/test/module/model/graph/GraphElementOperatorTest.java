@@ -13,6 +13,7 @@ import guru.bubl.module.model.graph.subgraph.SubGraphPojo;
 import guru.bubl.module.model.graph.tag.Tag;
 import guru.bubl.module.model.graph.tag.TagPojo;
 import guru.bubl.module.model.graph.fork.NbNeighbors;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
 import guru.bubl.module.model.test.scenarios.TestScenarios;
 import guru.bubl.test.module.utils.ModelTestResources;
 import org.junit.Ignore;
@@ -391,6 +392,55 @@ public class GraphElementOperatorTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void tagging_many_elements_uses_one_tag_counting_each_share_level() {
+        vertexB.setShareLevel(ShareLevel.FRIENDS);
+        vertexC.makePublic();
+        Set<URI> tagUris = new HashSet<>();
+        for (VertexOperator graphElement : Arrays.asList(vertexA, vertexB, vertexC)) {
+            tagUris.add(
+                    graphElement.addTag(
+                            modelTestScenarios.computerScientistType()
+                    ).values().iterator().next().uri()
+            );
+        }
+        assertThat(
+                tagUris.size(),
+                is(1)
+        );
+        NbNeighbors nbNeighbors = tagFactory.withUri(tagUris.iterator().next()).getNbNeighbors();
+        assertThat(
+                nbNeighbors.getPrivate() + "," + nbNeighbors.getFriend() + "," + nbNeighbors.getPublic(),
+                is("1,1,1")
+        );
+        wholeGraphAdmin.refreshNbNeighborsOfTags();
+        assertThat(
+                nbNeighbors.getPrivate() + "," + nbNeighbors.getFriend() + "," + nbNeighbors.getPublic(),
+                is("1,1,1")
+        );
+    }
+
+    @Test
+    public void tagging_many_elements_with_a_graph_element_tags_it_to_itself_once() {
+        TagPojo tag = null;
+        for (VertexOperator graphElement : Arrays.asList(vertexA, vertexC, vertexD)) {
+            tag = graphElement.addTag(
+                    TestScenarios.tagFromFriendlyResource(
+                            vertexB
+                    )
+            ).values().iterator().next();
+        }
+        assertTrue(
+                vertexB.getTags().containsKey(
+                        tag.getExternalResourceUri()
+                )
+        );
+        assertThat(
+                tagFactory.withUri(tag.uri()).getNbNeighbors().getTotal(),
+                is(4)
+        );
+    }
+
     @Test
     public void identifications_do_not_apply_for_all_elements() {
         vertexA.addTag(
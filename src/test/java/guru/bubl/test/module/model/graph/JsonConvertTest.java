@@ -9,6 +9,7 @@ import guru.bubl.module.model.graph.subgraph.SubGraphJson;
 import guru.bubl.module.model.graph.relation.Relation;
 import guru.bubl.module.model.graph.relation.RelationJson;
 import guru.bubl.module.model.graph.subgraph.SubGraphPojo;
+import guru.bubl.module.model.graph.tag.TagPojo;
 import guru.bubl.module.model.graph.vertex.Vertex;
 import guru.bubl.module.model.graph.vertex.VertexJson;
 import guru.bubl.module.model.graph.vertex.VertexPojo;
@@ -16,6 +17,12 @@ import guru.bubl.test.module.utils.ModelTestResources;
 import org.codehaus.jettison.json.JSONObject;
 import org.junit.Test;
 
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -88,5 +95,117 @@ public class JsonConvertTest extends ModelTestResources {
         );
     }
 
-}
+    @Test
+    public void subgraph_edges_are_kept_when_converting_to_and_from() {
+        Relation betweenAAndB = vertexA.getEdgeToDestinationVertex(vertexB);
+        SubGraphPojo subGraph = SubGraphJson.fromJson(
+                SubGraphJson.toJson(
+                        userGraph.aroundForkUriWithDepthInShareLevels(
+                                vertexA.uri(),
+                                10,
+                                ShareLevel.allShareLevelsInt
+                        )
+                )
+        );
+        assertThat(
+                subGraph.edges().size(),
+                is(4)
+        );
+        assertTrue(
+                subGraph.containsEdge(betweenAAndB)
+        );
+    }
+
+    @Test
+    public void subgraph_tags_are_kept_when_converting_to_and_from() {
+        TagPojo tag = vertexA.addTag(
+                modelTestScenarios.computerScientistType()
+        ).values().iterator().next();
+        SubGraphPojo subGraph = SubGraphJson.fromJson(
+                SubGraphJson.toJson(
+                        userGraph.aroundForkUriWithDepthInShareLevels(
+                                vertexA.uri(),
+                                10,
+                                ShareLevel.allShareLevelsInt
+                        )
+                )
+        );
+        TagPojo tagFromJson = subGraph.vertexWithIdentifier(
+                vertexA.uri()
+        ).getTags().values().iterator().next();
+        assertThat(
+                tagFromJson.uri(),
+                is(tag.uri())
+        );
+        assertThat(
+                tagFromJson.label(),
+                is(tag.label())
+        );
+    }
+
+    @Test
+    public void whole_graph_converts_to_and_from() {
+        vertexB.makePublic();
+        vertexC.setShareLevel(ShareLevel.FRIENDS);
+        vertexA.addTag(
+                modelTestScenarios.computerScientistType()
+        );
+        vertexA.getEdgeToDestinationVertex(vertexB).addTag(
+                modelTestScenarios.possessionIdentification()
+        );
+        SubGraphPojo subGraph = wholeGraphAroundDefaultCenterVertex();
+        SubGraphPojo subGraphFromJson = SubGraphJson.fromJson(
+                SubGraphJson.toJson(
+                        subGraph
+                )
+        );
+        assertThat(
+                subGraphFromJson.vertices().size(),
+                is(subGraph.vertices().size())
+        );
+        assertThat(
+                subGraphFromJson.edges().size(),
+                is(subGraph.edges().size())
+        );
+        assertThat(
+                verticesContent(subGraphFromJson),
+                is(verticesContent(subGraph))
+        );
+        assertThat(
+                edgesContent(subGraphFromJson),
+                is(edgesContent(subGraph))
+        );
+    }
+
+    private Map<URI, String> verticesContent(SubGraphPojo subGraph) {
+        Map<URI, String> content = new HashMap<>();
+        for (VertexPojo vertex : subGraph.vertices().values()) {
+            content.put(
+                    vertex.uri(),
+                    vertex.label() + "|" + vertex.getShareLevel() + "|" + vertex.getNbNeighbors().getTotal() + "|" + tagsContent(vertex.getTags())
+            );
+        }
+        return content;
+    }
 
+    private Map<URI, String> edgesContent(SubGraphPojo subGraph) {
+        Map<URI, String> content = new HashMap<>();
+        for (Relation relation : subGraph.edges().values()) {
+            content.put(
+                    relation.uri(),
+                    relation.label() + "|" + relation.getSource().uri() + "|" + relation.destinationUri() + "|" + relation.getShareLevel() + "|" + tagsContent(relation.getTags())
+            );
+        }
+        return content;
+    }
+
+    private Set<String> tagsContent(Map<URI, TagPojo> tags) {
+        Set<String> content = new HashSet<>();
+        for (TagPojo tag : tags.values()) {
+            content.add(
+                    tag.uri() + "|" + tag.getExternalResourceUri() + "|" + tag.label()
+            );
+        }
+        return content;
+    }
+}
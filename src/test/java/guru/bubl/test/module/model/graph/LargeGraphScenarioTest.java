@@ -0,0 +1,62 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.model.graph;
+
+import guru.bubl.module.model.graph.ShareLevel;
+import guru.bubl.module.model.graph.subgraph.SubGraphPojo;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import guru.bubl.test.module.utils.ModelTestResources;
+import guru.bubl.test.module.utils.ModelTestRunner;
+import js_test_data.LargeGraphScenario;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class LargeGraphScenarioTest extends ModelTestResources {
+
+    @Test
+    public void same_seed_gives_same_graph() {
+        List<List<String>> graphs = graphsOf(
+                generateWithSeed(42L)
+        );
+        removeAll();
+        assertThat(
+                graphsOf(generateWithSeed(42L)),
+                is(graphs)
+        );
+    }
+
+    private LargeGraphScenario generateWithSeed(Long seed) {
+        LargeGraphScenario scenario = LargeGraphScenario.withSeed(
+                seed
+        ).nbUsers(2).nbBubblesPerUser(60).groupRelations(0.1, 2);
+        ModelTestRunner.injector.injectMembers(scenario);
+        return scenario.generate();
+    }
+
+    private List<List<String>> graphsOf(LargeGraphScenario scenario) {
+        List<List<String>> graphs = new ArrayList<>();
+        for (VertexOperator center : scenario.getCenters()) {
+            SubGraphPojo subGraph = neo4jSubGraphExtractorFactory.withCenterVertexInShareLevelsAndDepth(
+                    center.uri(),
+                    1000,
+                    ShareLevel.allShareLevelsInt
+            ).load();
+            List<String> graph = subGraph.vertices().values().stream().map(
+                    vertex -> vertex.label() + "|" + vertex.getShareLevel() + "|" + vertex.getNbNeighbors().getTotal()
+            ).sorted().collect(Collectors.toList());
+            graph.addAll(subGraph.edges().values().stream().map(
+                    relation -> relation.label() + "|" + relation.getShareLevel()
+            ).sorted().collect(Collectors.toList()));
+            graphs.add(graph);
+        }
+        return graphs;
+    }
+}
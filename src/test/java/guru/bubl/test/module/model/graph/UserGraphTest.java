@@ -434,6 +434,156 @@ public class UserGraphTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void changing_label_reflects_in_getting_same_subgraph_again() {
+        userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        vertexC.label("new label");
+        SubGraphPojo subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertThat(
+                subGraph.vertexWithIdentifier(
+                        vertexC.uri()
+                ).label(),
+                is("new label")
+        );
+    }
+
+    @Test
+    public void adding_tag_reflects_in_getting_same_subgraph_again() {
+        userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        vertexC.addTag(
+                modelTestScenarios.computerScientistType()
+        );
+        SubGraphPojo subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertThat(
+                subGraph.vertexWithIdentifier(
+                        vertexC.uri()
+                ).getTags().size(),
+                is(1)
+        );
+    }
+
+    @Test
+    public void changing_share_level_reflects_in_getting_same_subgraph_again() {
+        SubGraphPojo subGraph = userGraph.aroundForkUriInShareLevels(
+                vertexB.uri(),
+                ShareLevel.PUBLIC.getIndex()
+        );
+        assertThat(
+                subGraph.vertices().size(),
+                is(0)
+        );
+        vertexB.makePublic();
+        subGraph = userGraph.aroundForkUriInShareLevels(
+                vertexB.uri(),
+                ShareLevel.PUBLIC.getIndex()
+        );
+        assertThat(
+                subGraph.vertices().size(),
+                is(1)
+        );
+    }
+
+    @Test
+    public void changing_source_reflects_in_getting_same_subgraph_again() {
+        RelationOperator betweenBAndC = vertexB.getEdgeToDestinationVertex(vertexC);
+        SubGraphPojo subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertTrue(
+                subGraph.containsEdge(betweenBAndC)
+        );
+        betweenBAndC.changeSource(
+                vertexA.uri(),
+                ShareLevel.PRIVATE,
+                ShareLevel.PRIVATE,
+                ShareLevel.PRIVATE
+        );
+        subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertFalse(
+                subGraph.containsEdge(betweenBAndC)
+        );
+        subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexA.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertThat(
+                subGraph.edgeWithIdentifier(
+                        betweenBAndC.uri()
+                ).getSource().uri(),
+                is(vertexA.uri())
+        );
+    }
+
+    @Test
+    public void merging_reflects_in_getting_same_subgraph_again() {
+        SubGraphPojo subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertTrue(
+                subGraph.vertices().containsKey(vertexA.uri())
+        );
+        vertexA.mergeTo(vertexC);
+        subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertFalse(
+                subGraph.vertices().containsKey(vertexA.uri())
+        );
+    }
+
+    @Test
+    public void removing_reflects_in_getting_same_subgraph_again() {
+        SubGraphPojo subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertThat(
+                subGraph.edges().size(),
+                is(2)
+        );
+        vertexC.remove();
+        subGraph = userGraph.aroundForkUriWithDepthInShareLevels(
+                vertexB.uri(),
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertFalse(
+                subGraph.vertices().containsKey(vertexC.uri())
+        );
+        assertThat(
+                subGraph.edges().size(),
+                is(1)
+        );
+    }
+
     @Test
     public void nb_public_neighbors_is_included() {
         vertexB.makePublic();
@@ -2,12 +2,15 @@ package guru.bubl.test.module.model.graph.fork;
 
 import guru.bubl.module.model.graph.graph_element.ForkCollectionOperator;
 import guru.bubl.module.model.graph.graph_element.ForkCollectionOperatorFactory;
+import guru.bubl.module.model.graph.relation.Relation;
 import guru.bubl.module.model.graph.relation.RelationOperator;
+import guru.bubl.module.model.graph.tag.TagPojo;
 import guru.bubl.test.module.utils.ModelTestResources;
 import org.junit.Test;
 
 import javax.inject.Inject;
 import java.net.URI;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -110,6 +113,69 @@ public class ForkCollectionOperatorTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void remove_decrements_nb_neighbors_of_surviving_vertices() {
+        vertexC.makePublic();
+        assertThat(
+                vertexB.getNbNeighbors().getTotal(),
+                is(2)
+        );
+        forkCollectionOperatorFactory.withUris(urisToSet(
+                vertexA.uri(),
+                vertexC.uri()
+        )).remove();
+        assertThat(
+                vertexB.getNbNeighbors().getTotal(),
+                is(0)
+        );
+        wholeGraphAdmin.refreshNbNeighbors();
+        assertThat(
+                vertexB.getNbNeighbors().getTotal(),
+                is(0)
+        );
+    }
+
+    @Test
+    public void remove_decrements_nb_neighbors_of_tags() {
+        TagPojo tag = vertexA.addTag(
+                modelTestScenarios.possessionIdentification()
+        ).values().iterator().next();
+        vertexB.addTag(tag);
+        vertexC.addTag(tag);
+        assertThat(
+                tagFactory.withUri(tag.uri()).getNbNeighbors().getPrivate(),
+                is(3)
+        );
+        forkCollectionOperatorFactory.withUris(urisToSet(
+                vertexA.uri(),
+                vertexC.uri()
+        )).remove();
+        assertThat(
+                tagFactory.withUri(tag.uri()).getNbNeighbors().getPrivate(),
+                is(1)
+        );
+    }
+
+    @Test
+    public void can_remove_many_vertices_at_once() {
+        int nbNeighborsOfB = vertexB.getNbNeighbors().getTotal();
+        Set<URI> uris = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            Relation relation = vertexB.addVertexAndRelation();
+            uris.add(relation.destinationUri());
+        }
+        forkCollectionOperatorFactory.withUris(uris).remove();
+        assertThat(
+                vertexB.getNbNeighbors().getTotal(),
+                is(nbNeighborsOfB)
+        );
+        for (URI uri : uris) {
+            assertFalse(
+                    userGraph.haveElementWithId(uri)
+            );
+        }
+    }
+
     private Set<URI> urisToSet(URI... uris) {
         return Stream.of(
                 uris
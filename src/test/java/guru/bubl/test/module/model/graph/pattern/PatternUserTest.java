@@ -400,4 +400,146 @@ public class PatternUserTest extends ModelTestResources {
                 is(0)
         );
     }
+
+    @Test
+    public void editing_clone_does_not_change_pattern() {
+        vertexB.label("maple syrup");
+        vertexB.makePattern();
+        URI cloneUri = patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        vertexFactory.withUri(cloneUri).label("maple taffy");
+        SubGraphPojo cloneSubGraph = anotherUserGraph.aroundForkUriWithDepthInShareLevels(
+                cloneUri,
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        vertexFactory.withUri(
+                getVertexWithLabel(cloneSubGraph, "vertex C").uri()
+        ).label("cloned C");
+        assertThat(
+                vertexB.label(),
+                is("maple syrup")
+        );
+        assertThat(
+                vertexC.label(),
+                is("vertex C")
+        );
+    }
+
+    @Test
+    public void editing_pattern_after_clone_does_not_change_clone() {
+        vertexB.makePattern();
+        URI cloneUri = patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        vertexC.label("carrot");
+        vertexB.addTag(modelTestScenarios.computerScientistType());
+        SubGraphPojo cloneSubGraph = anotherUserGraph.aroundForkUriWithDepthInShareLevels(
+                cloneUri,
+                1,
+                ShareLevel.allShareLevelsInt
+        );
+        assertThat(
+                getVertexWithLabel(cloneSubGraph, "vertex C").label(),
+                is("vertex C")
+        );
+        assertThat(
+                vertexFactory.withUri(cloneUri).getTags().size(),
+                is(1)
+        );
+    }
+
+    @Test
+    public void clones_of_same_pattern_are_independent() {
+        vertexB.label("maple syrup");
+        vertexB.makePattern();
+        URI firstCloneUri = patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        URI secondCloneUri = patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        assertNotEquals(
+                firstCloneUri,
+                secondCloneUri
+        );
+        vertexFactory.withUri(firstCloneUri).label("first clone");
+        assertThat(
+                vertexFactory.withUri(secondCloneUri).label(),
+                is("maple syrup")
+        );
+        assertThat(
+                vertexB.getNbPatternUsage(),
+                is(2)
+        );
+    }
+
+    @Test
+    public void clone_reflects_labels_edited_under_pattern_since_last_clone() {
+        vertexB.makePattern();
+        patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        vertexC.label("carrot");
+        patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        assertThat(
+                graphSearchFactory.usingSearchTerm("carrot").searchForAllOwnResources(anotherUser).size(),
+                is(1)
+        );
+    }
+
+    @Test
+    public void clone_reflects_bubbles_added_and_removed_under_pattern_since_last_clone() {
+        vertexC.label("carrot");
+        vertexB.makePattern();
+        patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        vertexFactory.withUri(
+                vertexA.addVertexAndRelation().destinationUri()
+        ).label("turnip");
+        vertexC.remove();
+        patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        assertThat(
+                graphSearchFactory.usingSearchTerm("turnip").searchForAllOwnResources(anotherUser).size(),
+                is(1)
+        );
+        assertThat(
+                graphSearchFactory.usingSearchTerm("carrot").searchForAllOwnResources(anotherUser).size(),
+                is(1)
+        );
+    }
+
+    @Test
+    public void clone_reflects_edits_made_while_pattern_was_undone() {
+        vertexB.makePattern();
+        patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        vertexB.undoPattern();
+        vertexC.label("carrot");
+        vertexB.makePattern();
+        patternUserFactory.forUserAndPatternUri(
+                anotherUser,
+                vertexB.uri()
+        ).use();
+        assertThat(
+                graphSearchFactory.usingSearchTerm("carrot").searchForAllOwnResources(anotherUser).size(),
+                is(1)
+        );
+    }
 }
@@ -13,7 +13,10 @@ import guru.bubl.module.model.test.scenarios.TestScenarios;
 import guru.bubl.test.module.utils.search.Neo4jSearchRelatedTest;
 import org.junit.Test;
 
+import java.net.URI;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -97,6 +100,65 @@ public class GraphSearchTest extends Neo4jSearchRelatedTest {
         assertThat(vertices.size(), is(1));
     }
 
+    @Test
+    public void auto_completion_follows_label_changes() {
+        vertexA.label("zanzibar");
+        List<GraphElementSearchResult> vertices = graphSearchFactory.usingSearchTerm(
+                "zanz"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(1));
+        vertexA.label("pyjama");
+        vertices = graphSearchFactory.usingSearchTerm(
+                "zanz"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(0));
+        vertices = graphSearchFactory.usingSearchTerm(
+                "pyj"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(1));
+    }
+
+    @Test
+    public void auto_completion_excludes_removed_vertices() {
+        vertexA.label("zanzibar");
+        vertexA.remove();
+        List<GraphElementSearchResult> vertices = graphSearchFactory.usingSearchTerm(
+                "zanz"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(0));
+    }
+
+    @Test
+    public void auto_completion_can_use_accent_and_upper_case() {
+        vertexC.label("tâche");
+        List<GraphElementSearchResult> vertices = graphSearchFactory.usingSearchTerm(
+                "tâch"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(1));
+        vertices = graphSearchFactory.usingSearchTerm(
+                "Tâch"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(1));
+        GraphElement vertex = vertices.get(0).getGraphElementSearchResult().getGraphElement();
+        assertThat(vertex.label(), is("tâche"));
+        vertices = graphSearchFactory.usingSearchTerm(
+                "tach"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        assertThat(vertices.size(), is(1));
+        vertex = vertices.get(0).getGraphElementSearchResult().getGraphElement();
+        assertThat(vertex.label(), is("tâche"));
+    }
+
+    @Test
+    public void auto_completion_can_have_single_quotes() {
+        vertexA.label("a'test");
+        List<GraphElementSearchResult> vertices = graphSearchFactory.usingSearchTerm(
+                "a'test"
+        ).searchOnlyForOwnVerticesForAutoCompletionByLabel(user);
+        GraphElement vertex = vertices.get(0).getGraphElementSearchResult().getGraphElement();
+        assertThat(vertex.label(), is("a'test"));
+    }
+
     @Test
     public void cant_search_in_vertices_of_another_user() {
         indexGraph();
@@ -683,6 +745,36 @@ public class GraphSearchTest extends Neo4jSearchRelatedTest {
         );
     }
 
+    @Test
+    public void skipped_pages_cover_all_results_once() {
+        for (int i = 0; i < 25; i++) {
+            vertexFactory.withUri(
+                    graphFactory.loadForUser(user).createVertex().uri()
+            ).label("zanzibar " + i);
+        }
+        Set<URI> foundUris = new HashSet<>();
+        int nbFound = 0;
+        for (int skip = 0; skip < 30; skip += 10) {
+            List<GraphElementSearchResult> page = graphSearchFactory.usingSearchTermSkipAndLimit(
+                    "zanzibar",
+                    skip,
+                    10
+            ).searchForAllOwnResources(user);
+            for (GraphElementSearchResult searchResult : page) {
+                foundUris.add(searchResult.getGraphElement().uri());
+                nbFound++;
+            }
+        }
+        assertThat(
+                nbFound,
+                is(25)
+        );
+        assertThat(
+                foundUris.size(),
+                is(25)
+        );
+    }
+
     @Test
     public void search_result_includes_share_level() {
         GraphElementSearchResult searchResult = graphSearchFactory.usingSearchTermSkipAndLimit(
@@ -5,6 +5,7 @@ import guru.bubl.module.model.User;
 import guru.bubl.module.model.center_graph_element.CenterGraphElementOperator;
 import guru.bubl.module.model.graph.ShareLevel;
 import guru.bubl.module.model.graph.Tree;
+import guru.bubl.module.model.graph.relation.Relation;
 import guru.bubl.module.model.graph.subgraph.SubGraph;
 import guru.bubl.module.model.graph.tag.Tag;
 import guru.bubl.module.model.graph.tag.TagPojo;
@@ -330,6 +331,40 @@ public class TreeCopierTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void copies_every_element_of_a_wide_tree() {
+        vertexB.makePublic();
+        Set<URI> uris = new HashSet<>();
+        uris.add(vertexB.uri());
+        for (int i = 0; i < 50; i++) {
+            Relation relation = vertexB.addVertexAndRelation();
+            vertexFactory.withUri(relation.destinationUri()).makePublic();
+            uris.add(relation.uri());
+            uris.add(relation.destinationUri());
+        }
+        TreeCopier treeCopier = treeCopierFactory.forCopier(anotherUser);
+        URI newVertexBUri = treeCopier.copyTreeOfUser(
+                Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                        uris,
+                        vertexB.uri(),
+                        tagFromFriendlyResource(vertexB)
+                ),
+                user
+        ).get(vertexB.uri());
+        SubGraph subGraph = userGraphFactory.withUser(anotherUser).aroundForkUriInShareLevels(
+                newVertexBUri,
+                ShareLevel.allShareLevelsInt
+        );
+        assertThat(
+                subGraph.vertices().size(),
+                is(51)
+        );
+        assertThat(
+                subGraph.edges().size(),
+                is(50)
+        );
+    }
+
     @Test
     public void cannot_copy_friend_bubbles_if_not_friend() {
         makeAllPublic();
@@ -402,6 +437,58 @@ public class TreeCopierTest extends ModelTestResources {
         );
     }
 
+    @Test
+    public void cannot_copy_friend_bubbles_while_friendship_is_not_confirmed() {
+        makeAllPublic();
+        vertexB.setShareLevel(ShareLevel.FRIENDS);
+        friendManagerFactory.forUser(user).add(anotherUser);
+        TreeCopier treeCopier = treeCopierFactory.forCopier(anotherUser);
+        Tree copiedTree = Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                graphElementsOfTestScenario.allGraphElementsToUris(),
+                vertexA.uri(),
+                tagFromFriendlyResource(vertexA)
+        );
+        treeCopier.copyTreeOfUser(copiedTree, user);
+        assertThat(
+                wholeGraph.getAllVertices().size(),
+                is(6)
+        );
+        friendManagerFactory.forUser(anotherUser).confirm(user);
+        treeCopier.copyTreeOfUser(copiedTree, user);
+        assertThat(
+                wholeGraph.getAllVertices().size(),
+                is(11)
+        );
+    }
+
+    @Test
+    public void copies_nothing_if_only_one_element_of_a_wide_tree_is_private() {
+        vertexB.makePublic();
+        Set<URI> uris = new HashSet<>();
+        uris.add(vertexB.uri());
+        for (int i = 0; i < 50; i++) {
+            Relation relation = vertexB.addVertexAndRelation();
+            if (i != 49) {
+                vertexFactory.withUri(relation.destinationUri()).makePublic();
+            }
+            uris.add(relation.uri());
+            uris.add(relation.destinationUri());
+        }
+        int nbVertices = wholeGraph.getAllVertices().size();
+        treeCopierFactory.forCopier(anotherUser).copyTreeOfUser(
+                Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                        uris,
+                        vertexB.uri(),
+                        tagFromFriendlyResource(vertexB)
+                ),
+                user
+        );
+        assertThat(
+                wholeGraph.getAllVertices().size(),
+                is(nbVertices)
+        );
+    }
+
     @Test
     public void tests_ownership_of_copied_graph_elements() {
         makeAllPublic();
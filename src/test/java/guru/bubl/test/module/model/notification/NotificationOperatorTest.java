@@ -8,11 +8,13 @@ import guru.bubl.module.model.notification.Notification;
 import guru.bubl.module.model.notification.NotificationOperator;
 import guru.bubl.test.module.utils.ModelTestResources;
 import org.joda.time.DateTime;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.neo4j.driver.Session;
 
 import javax.inject.Inject;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static guru.bubl.module.model.test.scenarios.TestScenarios.tagFromFriendlyResource;
@@ -364,6 +366,64 @@ public class NotificationOperatorTest extends ModelTestResources {
         );
     }
 
+    @Test
+    @Ignore("needs an atomic notification throttle")
+    public void concurrent_edits_notify_once_a_day() throws Exception {
+        makeAllPublic();
+        setLastModificationDateToMoreThanADayBefore();
+        TreeCopier treeCopier = treeCopierFactory.forCopier(anotherUser);
+        treeCopier.copyTreeOfUser(
+                Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                        graphElementsOfTestScenario.allGraphElementsToUris(),
+                        vertexA.uri(),
+                        tagFromFriendlyResource(vertexA)
+                ), user
+        );
+        addVertexAndRelationConcurrentlyToVertexC();
+        assertThat(
+                notificationOperator.listForUserAndNbSkip(anotherUser, 0).size(),
+                is(1)
+        );
+    }
+
+    @Test
+    @Ignore("needs an atomic notification throttle")
+    public void concurrent_edits_notify_every_watcher_once() throws Exception {
+        makeAllPublic();
+        setLastModificationDateToMoreThanADayBefore();
+        User anotherUser2 = createAnotherUser2();
+        for (User watcher : new User[]{anotherUser, anotherUser2}) {
+            treeCopierFactory.forCopier(watcher).copyTreeOfUser(
+                    Tree.withUrisOfGraphElementsAndRootUriAndTag(
+                            graphElementsOfTestScenario.allGraphElementsToUris(),
+                            vertexA.uri(),
+                            tagFromFriendlyResource(vertexA)
+                    ), user
+            );
+        }
+        addVertexAndRelationConcurrentlyToVertexC();
+        assertThat(
+                notificationOperator.listForUserAndNbSkip(anotherUser, 0).size(),
+                is(1)
+        );
+        assertThat(
+                notificationOperator.listForUserAndNbSkip(anotherUser2, 0).size(),
+                is(1)
+        );
+        assertThat(
+                notificationOperator.listForUserAndNbSkip(user, 0).size(),
+                is(0)
+        );
+    }
+
+    private void addVertexAndRelationConcurrentlyToVertexC() throws Exception {
+        List<Runnable> edits = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            edits.add(vertexC::addVertexAndRelation);
+        }
+        runConcurrently(8, edits);
+    }
+
     private User createAnotherUser2() {
         User anotherUser2 = User.withEmail(
                 "colette2.armande@example.org"
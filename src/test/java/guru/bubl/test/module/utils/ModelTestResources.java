@@ -13,6 +13,7 @@ import guru.bubl.module.model.center_graph_element.CenterGraphElementsOperatorFa
 import guru.bubl.module.model.friend.FriendManagerFactory;
 import guru.bubl.module.model.graph.GraphFactory;
 import guru.bubl.module.model.graph.ShareLevel;
+import guru.bubl.module.model.graph.fork.NbNeighbors;
 import guru.bubl.module.model.graph.graph_element.GraphElement;
 import guru.bubl.module.model.graph.graph_element.GraphElementOperatorFactory;
 import guru.bubl.module.model.graph.group_relation.GroupRelationFactory;
@@ -42,8 +43,15 @@ import org.neo4j.driver.Session;
 import javax.inject.Inject;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
 import static org.neo4j.driver.Values.parameters;
 
 public class ModelTestResources {
@@ -128,10 +136,40 @@ public class ModelTestResources {
 
     protected GraphElementsOfTestScenario graphElementsOfTestScenario;
 
+    private static GraphElementsOfTestScenario defaultScenario;
+
+    private static ModelTestSnapshot defaultScenarioSnapshot;
+
     @Before
     public void before() {
+        ModelTestRunner.beforeClassIfNotInSuite();
         ModelTestRunner.injector.injectMembers(this);
         removeAll();
+        if (shouldRebuildDefaultScenario()) {
+            buildDefaultScenario();
+            defaultScenarioSnapshot = ModelTestSnapshot.ofResourcesUsingDriver(driver);
+        } else {
+            defaultScenarioSnapshot.restore();
+        }
+        graphElementsOfTestScenario = defaultScenario;
+        userGraph = userGraphFactory.withUser(user);
+        vertexA = vertexFactory.withUri(graphElementsOfTestScenario.getVertexA().uri());
+        vertexB = vertexFactory.withUri(graphElementsOfTestScenario.getVertexB().uri());
+        vertexC = vertexFactory.withUri(graphElementsOfTestScenario.getVertexC().uri());
+        groupRelation = groupRelationFactory.withUri(graphElementsOfTestScenario.getGroupRelation().uri());
+        vertexD = vertexFactory.withUri(graphElementsOfTestScenario.getVertexD().uri());
+        vertexE = vertexFactory.withUri(graphElementsOfTestScenario.getVertexE().uri());
+        anotherUserGraph = userGraphFactory.withUser(anotherUser);
+        vertexOfAnotherUser = vertexFactory.withUri(vertexOfAnotherUser.uri());
+    }
+
+    private Boolean shouldRebuildDefaultScenario() {
+        return defaultScenarioSnapshot == null ||
+                !defaultScenarioSnapshot.isTakenUsing(driver) ||
+                Boolean.getBoolean("rebuildDefaultScenario");
+    }
+
+    private void buildDefaultScenario() {
         user = User.withEmail(
                 "roger.lamothe@example.org"
         ).setUsername("roger_lamothe").setPreferredLocales("[en]").password("12345678");
@@ -140,19 +178,11 @@ public class ModelTestResources {
                 "colette.armande@example.org"
         ).setUsername("colette_armande").setPreferredLocales("[fr]").password("12345678");
         userRepository.createUser(anotherUser);
-        userGraph = userGraphFactory.withUser(user);
-        graphElementsOfTestScenario = testScenarios.buildTestScenario(
-                userGraph
+        defaultScenario = testScenarios.buildTestScenario(
+                userGraphFactory.withUser(user)
         );
-        vertexA = graphElementsOfTestScenario.getVertexA();
-        vertexB = graphElementsOfTestScenario.getVertexB();
-        vertexC = graphElementsOfTestScenario.getVertexC();
-        groupRelation = graphElementsOfTestScenario.getGroupRelation();
-        vertexD = graphElementsOfTestScenario.getVertexD();
-        vertexE = graphElementsOfTestScenario.getVertexE();
-        anotherUserGraph = userGraphFactory.withUser(anotherUser);
         vertexOfAnotherUser = vertexFactory.withUri(
-                anotherUserGraph.createVertex().uri()
+                userGraphFactory.withUser(anotherUser).createVertex().uri()
         );
         vertexOfAnotherUser.label("vertex of another user");
     }
@@ -231,6 +261,38 @@ public class ModelTestResources {
         groupRelation.makePublic();
     }
 
+    protected void runConcurrently(Integer nbThreads, List<Runnable> tasks) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executorService.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    protected void assertRefreshKeepsNbNeighbors(NbNeighbors... nbNeighbors) {
+        List<String> maintained = nbNeighborsValues(nbNeighbors);
+        wholeGraphAdmin.refreshNbNeighbors();
+        assertThat(
+                nbNeighborsValues(nbNeighbors),
+                is(maintained)
+        );
+    }
+
+    private List<String> nbNeighborsValues(NbNeighbors... nbNeighbors) {
+        List<String> values = new ArrayList<>();
+        for (NbNeighbors neighbors : nbNeighbors) {
+            values.add(neighbors.getPrivate() + "," + neighbors.getFriend() + "," + neighbors.getPublic());
+        }
+        return values;
+    }
+
     protected void setLastModificationDate(URI uri, Date date) {
         try (Session session = driver.session()) {
             session.run(
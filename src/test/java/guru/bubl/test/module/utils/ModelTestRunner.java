@@ -40,8 +40,15 @@ public class ModelTestRunner {
                 .beforeClass();
     }
 
+    public static void beforeClassIfNotInSuite() {
+        if (injector == null) {
+            realBeforeClass();
+        }
+    }
+
     @AfterClass
     public static void realAfterClass() {
         Neo4jModuleForTests.clearDb();
+        injector = null;
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package guru.bubl.test.module.utils;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.neo4j.driver.Values.parameters;
+
+/*
+ * In memory copy of the nodes that ModelTestResources.removeAll deletes,
+ * with their relationships, so that a graph built once can be put back
+ * before each test instead of being rebuilt operator call by operator call.
+ * Users are :Resource nodes, so they are deleted and created again like the rest.
+ * Restored nodes get new internal ids, only uris and properties stay the same.
+ */
+public class ModelTestSnapshot {
+
+    private final Driver driver;
+    private final List<Map<String, Object>> nodes;
+    private final List<Map<String, Object>> relationships;
+
+    public static ModelTestSnapshot ofResourcesUsingDriver(Driver driver) {
+        try (Session session = driver.session()) {
+            List<Map<String, Object>> nodes = session.run(
+                    "MATCH (n) WHERE n:Resource OR n:Notification " +
+                            "RETURN {id:id(n), labels:labels(n), properties:properties(n)} AS node"
+            ).list(record -> record.get("node").asMap());
+            List<Map<String, Object>> relationships = session.run(
+                    "MATCH (a)-[r]->(b) " +
+                            "WHERE a:Resource OR a:Notification OR b:Resource OR b:Notification " +
+                            "RETURN {start:id(a), end:id(b), type:type(r), properties:properties(r)} AS relationship"
+            ).list(record -> record.get("relationship").asMap());
+            return new ModelTestSnapshot(
+                    driver,
+                    nodes,
+                    relationships
+            );
+        }
+    }
+
+    protected ModelTestSnapshot(Driver driver, List<Map<String, Object>> nodes, List<Map<String, Object>> relationships) {
+        this.driver = driver;
+        this.nodes = nodes;
+        this.relationships = relationships;
+    }
+
+    public Boolean isTakenUsing(Driver driver) {
+        return this.driver == driver;
+    }
+
+    public void restore() {
+        try (Session session = driver.session()) {
+            Map<Long, Long> restoredIds = new HashMap<>();
+            session.run(
+                    "UNWIND $nodes AS snapshotNode " +
+                            "CALL apoc.create.node(snapshotNode.labels, snapshotNode.properties) YIELD node " +
+                            "RETURN snapshotNode.id AS id, id(node) AS restoredId",
+                    parameters(
+                            "nodes", nodes
+                    )
+            ).forEachRemaining(record -> restoredIds.put(
+                    record.get("id").asLong(),
+                    record.get("restoredId").asLong()
+            ));
+            session.run(
+                    "UNWIND $relationships AS snapshotRelationship " +
+                            "MATCH (a) WHERE id(a) = snapshotRelationship.start " +
+                            "MATCH (b) WHERE id(b) = snapshotRelationship.end " +
+                            "CALL apoc.create.relationship(a, snapshotRelationship.type, snapshotRelationship.properties, b) YIELD rel " +
+                            "RETURN count(rel)",
+                    parameters(
+                            "relationships", relationshipsWithRestoredIds(restoredIds)
+                    )
+            ).consume();
+        }
+    }
+
+    private List<Map<String, Object>> relationshipsWithRestoredIds(Map<Long, Long> restoredIds) {
+        return relationships.stream().map(relationship -> {
+            Map<String, Object> restored = new HashMap<>(relationship);
+            Long start = (Long) relationship.get("start");
+            Long end = (Long) relationship.get("end");
+            restored.put("start", restoredIds.getOrDefault(start, start));
+            restored.put("end", restoredIds.getOrDefault(end, end));
+            return restored;
+        }).collect(Collectors.toList());
+    }
+}
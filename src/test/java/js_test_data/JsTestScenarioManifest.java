@@ -0,0 +1,158 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package js_test_data;
+
+import guru.bubl.module.model.ModelModule;
+import guru.bubl.module.model.test.scenarios.TestScenarios;
+import guru.bubl.module.neo4j_graph_manipulator.graph.Neo4jModule;
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ * Hash of each scenario's bytecode, its js_test_data super classes and the versions of the model,
+ * neo4j graph manipulator and model tests jars.
+ * A scenario whose hash did not change can be copied from the previous fixture file.
+ */
+public class JsTestScenarioManifest {
+
+    private static String modulesVersion;
+
+    private final Map<String, String> hashesByJsonKey;
+
+    public static JsTestScenarioManifest empty() {
+        return new JsTestScenarioManifest(new TreeMap<>());
+    }
+
+    public static JsTestScenarioManifest fromPath(Path path) throws IOException, JSONException {
+        if (!Files.exists(path)) {
+            return empty();
+        }
+        JSONObject json = new JSONObject(
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8)
+        );
+        Map<String, String> hashesByJsonKey = new TreeMap<>();
+        Iterator<?> keys = json.keys();
+        while (keys.hasNext()) {
+            String jsonKey = keys.next().toString();
+            hashesByJsonKey.put(jsonKey, json.getString(jsonKey));
+        }
+        return new JsTestScenarioManifest(hashesByJsonKey);
+    }
+
+    private JsTestScenarioManifest(Map<String, String> hashesByJsonKey) {
+        this.hashesByJsonKey = hashesByJsonKey;
+    }
+
+    public boolean hasSameHash(String jsonKey, String hash) {
+        return hash.equals(hashesByJsonKey.get(jsonKey));
+    }
+
+    public void put(String jsonKey, String hash) {
+        hashesByJsonKey.put(jsonKey, hash);
+    }
+
+    public void writeTo(Path path) throws IOException, JSONException {
+        JSONObject json = new JSONObject();
+        for (Map.Entry<String, String> entry : hashesByJsonKey.entrySet()) {
+            json.put(entry.getKey(), entry.getValue());
+        }
+        Files.write(path, json.toString(2).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String hashOfScenario(JsTestScenario scenario) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modulesVersion().getBytes(StandardCharsets.UTF_8));
+            Class<?> scenarioClass = scenario.getClass();
+            while (scenarioClass != null && scenarioClass.getName().startsWith("js_test_data.")) {
+                digest.update(bytecodeOfClass(scenarioClass));
+                scenarioClass = scenarioClass.getSuperclass();
+            }
+            return toHex(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static synchronized String modulesVersion() {
+        if (modulesVersion == null) {
+            StringBuilder version = new StringBuilder();
+            for (Class<?> moduleClass : Arrays.asList(ModelModule.class, Neo4jModule.class, TestScenarios.class)) {
+                version.append(versionOfJarOf(moduleClass)).append(";");
+            }
+            modulesVersion = version.toString();
+        }
+        return modulesVersion;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static byte[] bytecodeOfClass(Class<?> aClass) throws IOException {
+        String resourceName = aClass.getSimpleName() + ".class";
+        try (InputStream inputStream = aClass.getResourceAsStream(resourceName)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static String versionOfJarOf(Class<?> moduleClass) {
+        try {
+            Path location = Paths.get(
+                    moduleClass.getProtectionDomain().getCodeSource().getLocation().toURI()
+            );
+            if (Files.isDirectory(location)) {
+                return location + "@" + hashOfClassesIn(location);
+            }
+            String version = moduleClass.getPackage().getImplementationVersion();
+            if (version != null && !version.endsWith("SNAPSHOT")) {
+                return location.getFileName() + "@" + version;
+            }
+            return location + "@" + Files.getLastModifiedTime(location).toMillis();
+        } catch (URISyntaxException | IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /*
+     * A classes directory keeps its modification time when a class inside it is recompiled,
+     * so its class files are hashed instead.
+     */
+    private static String hashOfClassesIn(Path directory) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        List<Path> classFiles;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            classFiles = paths.filter(
+                    path -> path.toString().endsWith(".class")
+            ).sorted().collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            digest.update(directory.relativize(classFile).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(classFile));
+        }
+        return toHex(digest.digest());
+    }
+}
@@ -4,22 +4,39 @@
 
 package js_test_data;
 
-import com.google.common.collect.Sets;
 import com.google.inject.Injector;
 import guru.bubl.module.model.graph.GraphFactory;
 import guru.bubl.module.model.test.GraphComponentTest;
 import js_test_data.scenarios.*;
-import org.apache.commons.io.FileUtils;
+import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Transaction;
 
 import javax.inject.Inject;
-import java.io.File;
-import java.util.Set;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 public class JsTestScenariosBuilder {
 
+    private static final Path OUTPUT_PATH = Paths.get(
+            "src/test/java/js_test_data/js-test-data-server-side.json"
+    );
+
+    private static final Path MANIFEST_PATH = Paths.get(
+            "src/test/java/js_test_data/js-test-data-manifest.json"
+    );
+
     @Inject
     protected GraphFactory graphFactory;
 
@@ -29,7 +46,7 @@ public class JsTestScenariosBuilder {
     @Inject
     protected GraphComponentTest graphComponentTest;
 
-    Set<JsTestScenario> scenarios = Sets.newHashSet(
+    List<JsTestScenario> scenarios = Arrays.asList(
             new DeepGraphScenario(),
             new DeepGraphWithCircularityScenario(),
             new MergeBubbleGraphScenario(),
@@ -66,27 +83,109 @@ public class JsTestScenariosBuilder {
 
 
     public void build(Injector injector) throws Exception {
+        Map<String, JsTestScenario> scenariosByJsonKey = scenariosByJsonKey();
+        Map<String, String> hashesByJsonKey = new TreeMap<>();
+        for (Map.Entry<String, JsTestScenario> entry : scenariosByJsonKey.entrySet()) {
+            hashesByJsonKey.put(
+                    entry.getKey(),
+                    JsTestScenarioManifest.hashOfScenario(entry.getValue())
+            );
+        }
+        JSONObject previousJson = previousScenariosWithSameHash(hashesByJsonKey);
+        JsTestScenarioManifest manifest = JsTestScenarioManifest.empty();
         graphComponentTest.removeWholeGraph();
         Transaction transaction = graphDb.beginTx();
-        JSONObject jsonObject = new JSONObject();
-        for (JsTestScenario scenario : scenarios) {
-            graphComponentTest.removeWholeGraph();
-            injector.injectMembers(scenario);
-            jsonObject.put(
-                    jsonKeyNameFromTestScenario(scenario),
-                    scenario.build()
+        Path temporaryOutputPath = Files.createTempFile(
+                OUTPUT_PATH.toAbsolutePath().getParent(),
+                "js-test-data-server-side",
+                ".json.tmp"
+        );
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryOutputPath, StandardCharsets.UTF_8)) {
+                writer.write("{");
+                String separator = "";
+                for (Map.Entry<String, JsTestScenario> entry : scenariosByJsonKey.entrySet()) {
+                    String jsonKey = entry.getKey();
+                    JsTestScenario scenario = entry.getValue();
+                    String hash = hashesByJsonKey.get(jsonKey);
+                    Object scenarioValue;
+                    if (previousJson.has(jsonKey)) {
+                        scenarioValue = previousJson.remove(jsonKey);
+                    } else {
+                        graphComponentTest.removeWholeGraph();
+                        injector.injectMembers(scenario);
+                        scenarioValue = scenario.build();
+                    }
+                    manifest.put(jsonKey, hash);
+                    String scenarioJson = new JSONObject().put(
+                            jsonKey,
+                            scenarioValue
+                    ).toString();
+                    writer.write(separator);
+                    writer.write(
+                            scenarioJson.substring(1, scenarioJson.length() - 1)
+                    );
+                    writer.flush();
+                    separator = ",";
+                }
+                writer.write("}");
+            }
+            Files.move(
+                    temporaryOutputPath,
+                    OUTPUT_PATH,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING
             );
+        } finally {
+            Files.deleteIfExists(temporaryOutputPath);
         }
-        FileUtils.writeStringToFile(
-                new File(
-                        "src/test/java/js_test_data/js-test-data-server-side.json"
-                ),
-                jsonObject.toString()
-        );
+        manifest.writeTo(MANIFEST_PATH);
         transaction.rollback();
         transaction.close();
     }
 
+    /*
+     * Only parses the previous fixture file when some scenario can be copied from it,
+     * and only keeps the entries of those scenarios.
+     */
+    private JSONObject previousScenariosWithSameHash(Map<String, String> hashesByJsonKey) throws IOException {
+        JSONObject previousScenarios = new JSONObject();
+        if (Boolean.getBoolean("rebuildAllScenarios") || !Files.exists(OUTPUT_PATH)) {
+            return previousScenarios;
+        }
+        try {
+            JsTestScenarioManifest previousManifest = JsTestScenarioManifest.fromPath(MANIFEST_PATH);
+            List<String> unchangedJsonKeys = hashesByJsonKey.entrySet().stream().filter(
+                    entry -> previousManifest.hasSameHash(entry.getKey(), entry.getValue())
+            ).map(Map.Entry::getKey).collect(Collectors.toList());
+            if (unchangedJsonKeys.isEmpty()) {
+                return previousScenarios;
+            }
+            JSONObject previousJson = new JSONObject(
+                    new String(Files.readAllBytes(OUTPUT_PATH), StandardCharsets.UTF_8)
+            );
+            for (String jsonKey : unchangedJsonKeys) {
+                if (previousJson.has(jsonKey)) {
+                    previousScenarios.put(jsonKey, previousJson.get(jsonKey));
+                }
+            }
+            return previousScenarios;
+        } catch (JSONException e) {
+            return new JSONObject();
+        }
+    }
+
+    private Map<String, JsTestScenario> scenariosByJsonKey() {
+        Map<String, JsTestScenario> scenariosByJsonKey = new TreeMap<>();
+        for (JsTestScenario scenario : scenarios) {
+            scenariosByJsonKey.put(
+                    jsonKeyNameFromTestScenario(scenario),
+                    scenario
+            );
+        }
+        return scenariosByJsonKey;
+    }
+
     private String jsonKeyNameFromTestScenario(JsTestScenario testScenario) {
         String className = testScenario.getClass().getSimpleName();
         String firstChar = (className.charAt(0) + "").toLowerCase();
@@ -0,0 +1,244 @@
+/*
+ * Copyright Vincent Blouin under the GPL License version 3
+ */
+
+package js_test_data;
+
+import guru.bubl.module.model.User;
+import guru.bubl.module.model.graph.FriendlyResourcePojo;
+import guru.bubl.module.model.graph.ShareLevel;
+import guru.bubl.module.model.graph.group_relation.GroupRelationFactory;
+import guru.bubl.module.model.graph.relation.RelationOperator;
+import guru.bubl.module.model.graph.subgraph.SubGraphJson;
+import guru.bubl.module.model.graph.tag.TagPojo;
+import guru.bubl.module.model.graph.vertex.VertexOperator;
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+
+import javax.inject.Inject;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/*
+ * Graphs of any size for load tests. Each new bubble links to an existing bubble or group relation
+ * chosen proportionally to its degree, which gives a power-law degree distribution.
+ * Labels, links, share levels and tags only depend on the seed, not the generated uris.
+ * It is left out of JsTestScenariosBuilder.scenarios because its fixture would be too big to commit,
+ * add it there locally to give the front-end a large graph.
+ */
+public class LargeGraphScenario extends AbstractScenario implements JsTestScenario {
+
+    @Inject
+    protected GroupRelationFactory groupRelationFactory;
+
+    private final Random random;
+
+    private Integer nbBubblesPerUser = 1000;
+    private Integer nbUsers = 1;
+    private Double tagDensity = 0.1;
+    private Integer nbTags = 50;
+    private Double groupRelationRatio = 0.02;
+    private Integer maxGroupRelationDepth = 3;
+    private Double publicRatio = 0.3;
+    private Double friendsRatio = 0.2;
+
+    private List<User> users;
+    private List<VertexOperator> centers;
+    private List<TagPojo> tags;
+    private Integer nbRelations = 0;
+    private Integer nbGroupRelations = 0;
+    private Integer nbTagged = 0;
+    private Integer maxDegree = 0;
+
+    public static LargeGraphScenario withSeed(Long seed) {
+        return new LargeGraphScenario(seed);
+    }
+
+    protected LargeGraphScenario(Long seed) {
+        this.random = new Random(seed);
+    }
+
+    public LargeGraphScenario nbBubblesPerUser(Integer nbBubblesPerUser) {
+        this.nbBubblesPerUser = nbBubblesPerUser;
+        return this;
+    }
+
+    public LargeGraphScenario nbUsers(Integer nbUsers) {
+        this.nbUsers = nbUsers;
+        return this;
+    }
+
+    public LargeGraphScenario tagDensity(Double tagDensity, Integer nbTags) {
+        this.tagDensity = tagDensity;
+        this.nbTags = nbTags;
+        return this;
+    }
+
+    public LargeGraphScenario groupRelations(Double groupRelationRatio, Integer maxGroupRelationDepth) {
+        this.groupRelationRatio = groupRelationRatio;
+        this.maxGroupRelationDepth = maxGroupRelationDepth;
+        return this;
+    }
+
+    public LargeGraphScenario shareLevelMix(Double publicRatio, Double friendsRatio) {
+        this.publicRatio = publicRatio;
+        this.friendsRatio = friendsRatio;
+        return this;
+    }
+
+    @Override
+    public Object build() {
+        generate();
+        try {
+            JSONArray centersJson = new JSONArray();
+            for (VertexOperator center : centers) {
+                centersJson.put(center.uri().toString());
+            }
+            return new JSONObject().put(
+                    "centers",
+                    centersJson
+            ).put(
+                    "nbRelations",
+                    nbRelations
+            ).put(
+                    "nbGroupRelations",
+                    nbGroupRelations
+            ).put(
+                    "nbTagged",
+                    nbTagged
+            ).put(
+                    "maxDegree",
+                    maxDegree
+            ).put(
+                    "firstCenterGraph",
+                    SubGraphJson.toJson(
+                            graphFactory.loadForUser(users.get(0)).aroundForkUriInShareLevels(
+                                    centers.get(0).uri(),
+                                    ShareLevel.allShareLevelsInt
+                            )
+                    )
+            );
+        } catch (JSONException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public LargeGraphScenario generate() {
+        users = new ArrayList<>();
+        centers = new ArrayList<>();
+        tags = new ArrayList<>();
+        for (int i = 0; i < nbTags; i++) {
+            tags.add(new TagPojo(
+                    URI.create(
+                            "https://mindrespect.com/" + new UUID(random.nextLong(), random.nextLong())
+                    ),
+                    new FriendlyResourcePojo(
+                            "tag " + i
+                    )
+            ));
+        }
+        for (int i = 0; i < nbUsers; i++) {
+            User owner = User.withEmailAndUsername(
+                    "large" + i + "@example.org",
+                    "large" + i
+            );
+            users.add(owner);
+            generateForOwner(owner);
+        }
+        return this;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public List<VertexOperator> getCenters() {
+        return centers;
+    }
+
+    private void generateForOwner(User owner) {
+        List<URI> attachmentTargets = new ArrayList<>();
+        Map<URI, Integer> degrees = new HashMap<>();
+        Map<URI, ShareLevel> shareLevels = new HashMap<>();
+        Map<URI, Integer> groupRelationDepths = new HashMap<>();
+        VertexOperator ownerCenter = vertexFactory.createForOwner(
+                owner.username()
+        );
+        ownerCenter.label("center");
+        ownerCenter.makePublic();
+        centers.add(ownerCenter);
+        attachmentTargets.add(ownerCenter.uri());
+        degrees.put(ownerCenter.uri(), 0);
+        shareLevels.put(ownerCenter.uri(), ShareLevel.PUBLIC);
+        for (int i = 1; i < nbBubblesPerUser; i++) {
+            URI parentUri = attachmentTargets.get(
+                    random.nextInt(attachmentTargets.size())
+            );
+            VertexOperator bubble = vertexFactory.createForOwner(
+                    owner.username()
+            );
+            bubble.label("b" + i);
+            ShareLevel shareLevel = nextShareLevel();
+            if (shareLevel != ShareLevel.PRIVATE) {
+                bubble.setShareLevel(shareLevel);
+            }
+            if (random.nextDouble() < tagDensity) {
+                bubble.addTag(
+                        tags.get(random.nextInt(tags.size()))
+                );
+                nbTagged++;
+            }
+            Integer groupRelationDepth = groupRelationDepths.getOrDefault(parentUri, 0);
+            RelationOperator relation = groupRelationDepths.containsKey(parentUri) ?
+                    groupRelationFactory.withUri(parentUri).addRelationToFork(
+                            bubble.uri(),
+                            shareLevels.get(parentUri),
+                            shareLevel
+                    ) :
+                    vertexFactory.withUri(parentUri).addRelationToFork(
+                            bubble.uri(),
+                            shareLevels.get(parentUri),
+                            shareLevel
+                    );
+            relation.label("r" + i);
+            nbRelations++;
+            shareLevels.put(bubble.uri(), shareLevel);
+            degrees.put(bubble.uri(), 1);
+            attachmentTargets.add(bubble.uri());
+            Integer parentDegree = degrees.get(parentUri) + 1;
+            degrees.put(parentUri, parentDegree);
+            maxDegree = Math.max(maxDegree, parentDegree);
+            attachmentTargets.add(parentUri);
+            if (groupRelationDepth < maxGroupRelationDepth && random.nextDouble() < groupRelationRatio) {
+                URI groupRelationUri = relation.convertToGroupRelation(
+                        new UUID(random.nextLong(), random.nextLong()).toString(),
+                        shareLevels.get(parentUri),
+                        "group " + nbGroupRelations,
+                        ""
+                ).uri();
+                nbGroupRelations++;
+                groupRelationDepths.put(groupRelationUri, groupRelationDepth + 1);
+                shareLevels.put(groupRelationUri, shareLevels.get(parentUri));
+                degrees.put(groupRelationUri, 1);
+                attachmentTargets.add(groupRelationUri);
+            }
+        }
+    }
+
+    private ShareLevel nextShareLevel() {
+        double draw = random.nextDouble();
+        if (draw < publicRatio) {
+            return ShareLevel.PUBLIC;
+        }
+        if (draw < publicRatio + friendsRatio) {
+            return ShareLevel.FRIENDS;
+        }
+        return ShareLevel.PRIVATE;
+    }
+}